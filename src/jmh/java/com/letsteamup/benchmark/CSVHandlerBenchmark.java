@@ -0,0 +1,76 @@
+package com.letsteamup.benchmark;
+
+import com.letsteamup.exception.FileProcessingException;
+import com.letsteamup.model.Participant;
+import com.letsteamup.model.Team;
+import com.letsteamup.util.CSVHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for reading participants from and writing teams to CSV files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CSVHandlerBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int participantCount;
+
+    @Param({"5"})
+    private int teamSize;
+
+    private Path workDir;
+    private String participantsFile;
+    private String teamsFile;
+    private List<Team> teams;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, FileProcessingException {
+        workDir = Files.createTempDirectory("letsteamup-jmh");
+        participantsFile = workDir.resolve("participants.csv").toString();
+        teamsFile = workDir.resolve("teams.csv").toString();
+
+        List<Participant> participants = ParticipantGenerator.generate(participantCount, 42L);
+        CSVHandler.writeParticipantsToCSV(participants, participantsFile);
+        teams = ParticipantGenerator.sliceIntoTeams(participants, teamSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Path.of(participantsFile));
+        Files.deleteIfExists(Path.of(teamsFile));
+        Files.deleteIfExists(workDir);
+    }
+
+    @Benchmark
+    public List<Participant> readParticipantsFromCSV() throws FileProcessingException {
+        return CSVHandler.readParticipantsFromCSV(participantsFile);
+    }
+
+    @Benchmark
+    public void writeTeamsToCSV() throws FileProcessingException {
+        CSVHandler.writeTeamsToCSV(teams, teamsFile);
+    }
+}
@@ -0,0 +1,91 @@
+package com.letsteamup.benchmark;
+
+import com.letsteamup.model.Participant;
+import com.letsteamup.model.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic participant generator for benchmarks.
+ * Games, roles, skill levels and personality types follow the distributions
+ * of src/main/resources/participants_sample.csv.
+ */
+public final class ParticipantGenerator {
+
+    private static final String[] GAMES = {"FIFA", "CS:GO", "DOTA 2", "Basketball", "Chess", "Valorant"};
+    private static final int[] GAME_WEIGHTS = {23, 19, 17, 16, 15, 10};
+
+    private static final String[] ROLES = {"Strategist", "Attacker", "Defender", "Supporter", "Coordinator"};
+
+    // Index i holds the weight of skill level i + 1
+    private static final int[] SKILL_WEIGHTS = {6, 10, 10, 11, 14, 9, 11, 14, 7, 8};
+
+    private ParticipantGenerator() {
+    }
+
+    // Generates a reproducible roster of the given size; the same seed always
+    // produces the same participants so results are comparable between builds.
+    public static List<Participant> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Participant> participants = new ArrayList<>(count);
+
+        for (int i = 1; i <= count; i++) {
+            participants.add(new Participant(
+                    String.format("P%03d", i),
+                    "Participant_" + i,
+                    18 + random.nextInt(8),
+                    "user" + i + "@university.edu",
+                    personalityScore(random),
+                    GAMES[pickWeighted(GAME_WEIGHTS, random)],
+                    ROLES[random.nextInt(ROLES.length)],
+                    pickWeighted(SKILL_WEIGHTS, random) + 1
+            ));
+        }
+        return participants;
+    }
+
+    // Builds teams from consecutive slices of the roster without running any
+    // formation algorithm, so benchmarks that only need teams stay linear to set up.
+    public static List<Team> sliceIntoTeams(List<Participant> participants, int teamSize) {
+        List<Team> teams = new ArrayList<>((participants.size() + teamSize - 1) / teamSize);
+        Team current = null;
+
+        for (int i = 0; i < participants.size(); i++) {
+            if (i % teamSize == 0) {
+                current = new Team("T" + (teams.size() + 1), teamSize);
+                teams.add(current);
+            }
+            current.addMember(participants.get(i));
+        }
+        return teams;
+    }
+
+    // Leader, Balanced and Thinker are roughly a third each in the sample data
+    private static int personalityScore(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return 90 + random.nextInt(11);
+            case 1:
+                return 70 + random.nextInt(20);
+            default:
+                return 50 + random.nextInt(20);
+        }
+    }
+
+    private static int pickWeighted(int[] weights, Random random) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.letsteamup.benchmark;
+
+import com.letsteamup.model.FormationStatistics;
+import com.letsteamup.model.Team;
+import com.letsteamup.service.TeamFormationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for calculateStatistics and FormationStatistics. Teams are sliced
+ * straight from the generated roster, so setup stays linear up to 1M participants.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int participantCount;
+
+    @Param({"4", "5", "10"})
+    private int teamSize;
+
+    private List<Team> teams;
+    private TeamFormationService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        teams = ParticipantGenerator.sliceIntoTeams(ParticipantGenerator.generate(participantCount, 42L), teamSize);
+        service = new TeamFormationService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public Map<String, Object> calculateStatistics() {
+        return service.calculateStatistics(teams);
+    }
+
+    @Benchmark
+    public FormationStatistics formationStatistics() {
+        return FormationStatistics.calculate(teams, false);
+    }
+
+    @Benchmark
+    public FormationStatistics formationStatisticsParallel() {
+        return FormationStatistics.calculate(teams, true);
+    }
+}
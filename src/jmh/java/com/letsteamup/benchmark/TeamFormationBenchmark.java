@@ -0,0 +1,71 @@
+package com.letsteamup.benchmark;
+
+import com.letsteamup.exception.InsufficientParticipantsException;
+import com.letsteamup.model.Participant;
+import com.letsteamup.model.Team;
+import com.letsteamup.service.TeamFormationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the three formation algorithms.
+ * The default sizes stop at 10k because the current algorithms are quadratic;
+ * larger cohorts are opt-in with -p participantCount=100000,1000000 (see pom.xml).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TeamFormationBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int participantCount;
+
+    @Param({"4", "5", "10"})
+    private int teamSize;
+
+    private List<Participant> participants;
+    private TeamFormationService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        participants = ParticipantGenerator.generate(participantCount, 42L);
+        service = new TeamFormationService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public List<Team> formBalancedTeams() throws InsufficientParticipantsException {
+        return service.formBalancedTeams(participants, teamSize);
+    }
+
+    @Benchmark
+    public List<Team> formSkillBasedTeams() throws InsufficientParticipantsException {
+        return service.formSkillBasedTeams(participants, teamSize);
+    }
+
+    @Benchmark
+    public List<Team> formRoleBasedTeams() throws InsufficientParticipantsException {
+        return service.formRoleBasedTeams(participants, teamSize);
+    }
+}
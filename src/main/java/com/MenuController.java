@@ -1,5 +1,6 @@
 package com.letsteamup.controller;
 
+import com.letsteamup.model.FormationStatistics;
 import com.letsteamup.model.Participant;
 import com.letsteamup.model.Team;
 import com.letsteamup.service.DataService;
@@ -137,7 +138,7 @@ public class MenuController {
         int algorithm = ConsoleUI.getIntInput(1, 3);
 
         ConsoleUI.printInfo("\nForming teams...");
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         List<Team> teams;
         switch (algorithm) {
@@ -154,9 +155,9 @@ public class MenuController {
                 teams = teamFormationService.formBalancedTeams(participants, teamSize);
         }
 
-        long endTime = System.currentTimeMillis();
+        double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
 
-        ConsoleUI.printSuccess("\nTeam formation completed in " + (endTime - startTime) + "ms");
+        ConsoleUI.printSuccess(String.format("\nTeam formation completed in %.3fms", elapsedMillis));
         ConsoleUI.printSuccess("Formed " + teams.size() + " teams successfully!");
 
         displayTeamStatistics(teams);
@@ -223,39 +224,45 @@ public class MenuController {
         ConsoleUI.printSuccess("Teams exported successfully to src/main/resources/" + filename);
     }
 
-    // Displays detailed statistics for all formed teams, including averages and
-    // distributions of personality types, roles, and games for analysis insights.
+    // Displays detailed statistics for all formed teams, including averages, team skill
+    // spread, Leader counts per team and distributions of personality types, roles, and games.
     private void displayTeamStatistics(List<Team> teams) {
         ConsoleUI.printSeparator();
         System.out.println("TEAM FORMATION STATISTICS");
         ConsoleUI.printSeparator();
 
-        Map<String, Object> stats = teamFormationService.calculateStatistics(teams);
-
-        System.out.println("Total Teams: " + stats.get("totalTeams"));
-        System.out.println("Total Members: " + stats.get("totalMembers"));
-        System.out.printf("Average Team Size: %.2f\n", stats.get("avgTeamSize"));
-        System.out.printf("Average Skill Level: %.2f\n", stats.get("avgSkillLevel"));
-        System.out.printf("Average Diversity Score: %.2f\n", stats.get("avgDiversity"));
+        // Same totals, averages and distributions as teamFormationService.calculateStatistics
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+
+        System.out.println("Total Teams: " + stats.getTotalTeams());
+        System.out.println("Total Members: " + stats.getTotalMembers());
+        System.out.printf("Average Team Size: %.2f\n", stats.getAvgTeamSize());
+        System.out.printf("Average Skill Level: %.2f\n", stats.getAvgSkillLevel());
+        System.out.printf("Average Diversity Score: %.2f\n", stats.getAvgDiversity());
+        System.out.printf("Team Skill Range: %.2f - %.2f (Std Dev: %.2f)\n",
+                stats.getMinTeamSkill(), stats.getMaxTeamSkill(), stats.getTeamSkillStdDev());
+
+        System.out.println("\nLeaders per Team:");
+        int[] leaderHistogram = stats.getLeaderHistogram();
+        for (int leaders = 0; leaders < leaderHistogram.length; leaders++) {
+            if (leaderHistogram[leaders] > 0) {
+                int teamCount = leaderHistogram[leaders];
+                System.out.printf("  %d Leader(s): %d %s\n", leaders, teamCount, teamCount == 1 ? "team" : "teams");
+            }
+        }
 
         System.out.println("\nPersonality Distribution:");
-        @SuppressWarnings("unchecked")
-        Map<String, Integer> personalityDist = (Map<String, Integer>) stats.get("personalityDistribution");
-        for (Map.Entry<String, Integer> entry : personalityDist.entrySet()) {
-            System.out.printf("  %s: %d\n", entry.getKey(), entry.getValue());
-        }
+        printDistribution(stats.getPersonalityDistribution());
 
         System.out.println("\nRole Distribution:");
-        @SuppressWarnings("unchecked")
-        Map<String, Integer> roleDist = (Map<String, Integer>) stats.get("roleDistribution");
-        for (Map.Entry<String, Integer> entry : roleDist.entrySet()) {
-            System.out.printf("  %s: %d\n", entry.getKey(), entry.getValue());
-        }
+        printDistribution(stats.getRoleDistribution());
 
         System.out.println("\nGame Distribution:");
-        @SuppressWarnings("unchecked")
-        Map<String, Integer> gameDist = (Map<String, Integer>) stats.get("gameDistribution");
-        for (Map.Entry<String, Integer> entry : gameDist.entrySet()) {
+        printDistribution(stats.getGameDistribution());
+    }
+
+    private void printDistribution(Map<String, Integer> distribution) {
+        for (Map.Entry<String, Integer> entry : distribution.entrySet()) {
             System.out.printf("  %s: %d\n", entry.getKey(), entry.getValue());
         }
     }
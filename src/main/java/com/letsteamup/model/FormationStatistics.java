@@ -0,0 +1,216 @@
+package com.letsteamup.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Typed summary of a set of formed teams, computed in a single pass over
+ * teams and their members.
+ */
+public final class FormationStatistics {
+
+    // Team lists at least this long are reduced in parallel by calculate(teams)
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
+    private final int totalTeams;
+    private final int totalMembers;
+    private final double avgTeamSize;
+    private final double avgSkillLevel;
+    private final double avgDiversity;
+    private final double teamSkillVariance;
+    private final double minTeamSkill;
+    private final double maxTeamSkill;
+    private final int[] leaderHistogram;
+    private final Map<String, Integer> personalityDistribution;
+    private final Map<String, Integer> roleDistribution;
+    private final Map<String, Integer> gameDistribution;
+
+    private FormationStatistics(Accumulator acc) {
+        this.totalTeams = acc.teams;
+        this.totalMembers = acc.members;
+        this.avgTeamSize = acc.teams == 0 ? 0.0 : (double) acc.members / acc.teams;
+        this.avgSkillLevel = acc.members == 0 ? 0.0 : (double) acc.skillSum / acc.members;
+        this.avgDiversity = acc.teams == 0 ? 0.0 : (double) acc.diversitySum / acc.teams;
+
+        if (acc.teams == 0) {
+            this.teamSkillVariance = 0.0;
+            this.minTeamSkill = 0.0;
+            this.maxTeamSkill = 0.0;
+        } else {
+            double mean = acc.teamSkillSum / acc.teams;
+            this.teamSkillVariance = Math.max(0.0, acc.teamSkillSumSq / acc.teams - mean * mean);
+            this.minTeamSkill = acc.minTeamSkill;
+            this.maxTeamSkill = acc.maxTeamSkill;
+        }
+
+        this.leaderHistogram = Arrays.copyOf(acc.leaderHistogram, acc.maxLeaders + 1);
+        this.personalityDistribution = toDistribution(acc.personalityCounts);
+        this.roleDistribution = toDistribution(acc.roleCounts);
+        this.gameDistribution = toDistribution(acc.gameCounts);
+    }
+
+    // Calculates statistics for the given teams, switching to a parallel
+    // reduction automatically once the team list reaches PARALLEL_THRESHOLD.
+    public static FormationStatistics calculate(List<Team> teams) {
+        return calculate(teams, teams != null && teams.size() >= PARALLEL_THRESHOLD);
+    }
+
+    // Calculates statistics for the given teams; when parallel is true each worker
+    // accumulates into its own counters and the partial results are merged.
+    public static FormationStatistics calculate(List<Team> teams, boolean parallel) {
+        if (teams == null || teams.isEmpty()) {
+            return new FormationStatistics(new Accumulator());
+        }
+
+        Accumulator acc = parallel
+                ? teams.parallelStream().collect(Accumulator::new, Accumulator::add, Accumulator::merge)
+                : teams.stream().collect(Accumulator::new, Accumulator::add, Accumulator::merge);
+        return new FormationStatistics(acc);
+    }
+
+    public int getTotalTeams() {
+        return totalTeams;
+    }
+
+    public int getTotalMembers() {
+        return totalMembers;
+    }
+
+    public double getAvgTeamSize() {
+        return avgTeamSize;
+    }
+
+    // Average skill level over all assigned members, as in TeamFormationService.calculateStatistics
+    public double getAvgSkillLevel() {
+        return avgSkillLevel;
+    }
+
+    public double getAvgDiversity() {
+        return avgDiversity;
+    }
+
+    // Population variance of the per-team average skill levels
+    public double getTeamSkillVariance() {
+        return teamSkillVariance;
+    }
+
+    public double getTeamSkillStdDev() {
+        return Math.sqrt(teamSkillVariance);
+    }
+
+    public double getMinTeamSkill() {
+        return minTeamSkill;
+    }
+
+    public double getMaxTeamSkill() {
+        return maxTeamSkill;
+    }
+
+    // Index i holds the number of teams that contain exactly i Leaders
+    public int[] getLeaderHistogram() {
+        return leaderHistogram.clone();
+    }
+
+    public Map<String, Integer> getPersonalityDistribution() {
+        return personalityDistribution;
+    }
+
+    public Map<String, Integer> getRoleDistribution() {
+        return roleDistribution;
+    }
+
+    public Map<String, Integer> getGameDistribution() {
+        return gameDistribution;
+    }
+
+    private static Map<String, Integer> toDistribution(Map<String, int[]> counts) {
+        Map<String, Integer> distribution = new TreeMap<>(Comparator.nullsLast(Comparator.naturalOrder()));
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            distribution.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return Collections.unmodifiableMap(distribution);
+    }
+
+    // Mutable per-thread counters; distributions count into int[1] cells so
+    // each member costs one map lookup per category and no boxing.
+    private static final class Accumulator {
+        private int teams;
+        private int members;
+        private long skillSum;
+        private long diversitySum;
+        private double teamSkillSum;
+        private double teamSkillSumSq;
+        private double minTeamSkill = Double.MAX_VALUE;
+        private double maxTeamSkill = -Double.MAX_VALUE;
+        private int[] leaderHistogram = new int[4];
+        private int maxLeaders;
+        private final Map<String, int[]> personalityCounts = new HashMap<>();
+        private final Map<String, int[]> roleCounts = new HashMap<>();
+        private final Map<String, int[]> gameCounts = new HashMap<>();
+
+        void add(Team team) {
+            int size = 0;
+            int teamSkill = 0;
+            int leaders = 0;
+
+            for (Participant member : team.getMembers()) {
+                size++;
+                teamSkill += member.getSkillLevel();
+                if ("Leader".equals(member.getPersonalityType())) {
+                    leaders++;
+                }
+                increment(personalityCounts, member.getPersonalityType(), 1);
+                increment(roleCounts, member.getPreferredRole(), 1);
+                increment(gameCounts, member.getPreferredGame(), 1);
+            }
+
+            double teamAverage = size == 0 ? 0.0 : (double) teamSkill / size;
+
+            teams++;
+            members += size;
+            skillSum += teamSkill;
+            diversitySum += team.getDiversityScore();
+            teamSkillSum += teamAverage;
+            teamSkillSumSq += teamAverage * teamAverage;
+            minTeamSkill = Math.min(minTeamSkill, teamAverage);
+            maxTeamSkill = Math.max(maxTeamSkill, teamAverage);
+            recordLeaders(leaders, 1);
+        }
+
+        void merge(Accumulator other) {
+            teams += other.teams;
+            members += other.members;
+            skillSum += other.skillSum;
+            diversitySum += other.diversitySum;
+            teamSkillSum += other.teamSkillSum;
+            teamSkillSumSq += other.teamSkillSumSq;
+            minTeamSkill = Math.min(minTeamSkill, other.minTeamSkill);
+            maxTeamSkill = Math.max(maxTeamSkill, other.maxTeamSkill);
+            for (int i = 0; i <= other.maxLeaders; i++) {
+                if (other.leaderHistogram[i] > 0) {
+                    recordLeaders(i, other.leaderHistogram[i]);
+                }
+            }
+            other.personalityCounts.forEach((key, count) -> increment(personalityCounts, key, count[0]));
+            other.roleCounts.forEach((key, count) -> increment(roleCounts, key, count[0]));
+            other.gameCounts.forEach((key, count) -> increment(gameCounts, key, count[0]));
+        }
+
+        private void recordLeaders(int leaders, int teamCount) {
+            if (leaders >= leaderHistogram.length) {
+                leaderHistogram = Arrays.copyOf(leaderHistogram, leaders + 1);
+            }
+            leaderHistogram[leaders] += teamCount;
+            maxLeaders = Math.max(maxLeaders, leaders);
+        }
+
+        private static void increment(Map<String, int[]> counts, String key, int amount) {
+            counts.computeIfAbsent(key, k -> new int[1])[0] += amount;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.letsteamup.test;
+
+import com.letsteamup.model.FormationStatistics;
+import com.letsteamup.model.Participant;
+import com.letsteamup.model.Team;
+import com.letsteamup.service.TeamFormationService;
+import com.letsteamup.exception.InsufficientParticipantsException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for FormationStatistics class
+ */
+public class FormationStatisticsTest {
+
+    private List<Team> teams;
+
+    @BeforeEach
+    public void setUp() {
+        Team team1 = new Team("T1", 3);
+        team1.addMember(new Participant("P001", "Alice", 20, "alice@test.com",
+                95, "Valorant", "Strategist", 8));
+        team1.addMember(new Participant("P002", "Bob", 21, "bob@test.com",
+                75, "FIFA", "Defender", 7));
+        team1.addMember(new Participant("P003", "Charlie", 19, "charlie@test.com",
+                55, "DOTA 2", "Supporter", 6));
+
+        Team team2 = new Team("T2", 3);
+        team2.addMember(new Participant("P004", "Diana", 22, "diana@test.com",
+                90, "Basketball", "Attacker", 9));
+        team2.addMember(new Participant("P005", "Eve", 20, "eve@test.com",
+                92, "Basketball", "Strategist", 5));
+        team2.addMember(new Participant("P006", "Frank", 21, "frank@test.com",
+                68, "Cricket", "Coordinator", 4));
+
+        teams = Arrays.asList(team1, team2);
+    }
+
+    @Test
+    public void testTotals() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+        assertEquals(2, stats.getTotalTeams());
+        assertEquals(6, stats.getTotalMembers());
+        assertEquals(3.0, stats.getAvgTeamSize(), 0.001);
+    }
+
+    @Test
+    public void testSkillStatistics() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+        assertEquals(39.0 / 6, stats.getAvgSkillLevel(), 0.001);
+        assertEquals(6.0, stats.getMinTeamSkill(), 0.001);
+        assertEquals(7.0, stats.getMaxTeamSkill(), 0.001);
+        assertEquals(0.25, stats.getTeamSkillVariance(), 0.001);
+        assertEquals(0.5, stats.getTeamSkillStdDev(), 0.001);
+    }
+
+    @Test
+    public void testAverageDiversity() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+        double expected = (teams.get(0).getDiversityScore() + teams.get(1).getDiversityScore()) / 2.0;
+        assertEquals(expected, stats.getAvgDiversity(), 0.001);
+    }
+
+    @Test
+    public void testLeaderHistogram() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+        int[] histogram = stats.getLeaderHistogram();
+        assertEquals(3, histogram.length);
+        assertEquals(0, histogram[0]);
+        assertEquals(1, histogram[1]);
+        assertEquals(1, histogram[2]);
+    }
+
+    @Test
+    public void testDistributions() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+
+        Map<String, Integer> personality = stats.getPersonalityDistribution();
+        assertEquals(3, personality.get("Leader"));
+        assertEquals(1, personality.get("Balanced"));
+        assertEquals(2, personality.get("Thinker"));
+
+        assertEquals(2, stats.getRoleDistribution().get("Strategist"));
+        assertEquals(2, stats.getGameDistribution().get("Basketball"));
+    }
+
+    @Test
+    public void testDistributionsImmutable() {
+        FormationStatistics stats = FormationStatistics.calculate(teams);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            stats.getRoleDistribution().put("Attacker", 10);
+        });
+    }
+
+    @Test
+    public void testEmptyTeams() {
+        FormationStatistics stats = FormationStatistics.calculate(new ArrayList<>());
+        assertEquals(0, stats.getTotalTeams());
+        assertEquals(0, stats.getTotalMembers());
+        assertEquals(0.0, stats.getAvgSkillLevel());
+        assertEquals(0.0, stats.getTeamSkillVariance());
+        assertTrue(stats.getPersonalityDistribution().isEmpty());
+    }
+
+    @Test
+    public void testNullTeams() {
+        FormationStatistics stats = FormationStatistics.calculate(null);
+        assertEquals(0, stats.getTotalTeams());
+    }
+
+    @Test
+    public void testParallelMatchesSequential() {
+        List<Team> manyTeams = new ArrayList<>();
+        String[] games = {"FIFA", "DOTA 2", "Valorant", "CS:GO", "Basketball"};
+        String[] roles = {"Strategist", "Attacker", "Defender", "Supporter", "Coordinator"};
+        for (int t = 0; t < 500; t++) {
+            Team team = new Team("T" + (t + 1), 4);
+            for (int m = 0; m < 4; m++) {
+                int i = t * 4 + m;
+                int score = (i % 3 == 0) ? 95 : ((i % 3 == 1) ? 75 : 55);
+                team.addMember(new Participant("P" + i, "Person" + i, 20, "p" + i + "@test.com",
+                        score, games[i % 5], roles[(i / 5) % 5], 1 + (i % 10)));
+            }
+            manyTeams.add(team);
+        }
+
+        FormationStatistics sequential = FormationStatistics.calculate(manyTeams, false);
+        FormationStatistics parallel = FormationStatistics.calculate(manyTeams, true);
+
+        assertEquals(sequential.getTotalMembers(), parallel.getTotalMembers());
+        assertEquals(sequential.getAvgSkillLevel(), parallel.getAvgSkillLevel(), 0.0001);
+        assertEquals(sequential.getTeamSkillVariance(), parallel.getTeamSkillVariance(), 0.0001);
+        assertEquals(sequential.getMinTeamSkill(), parallel.getMinTeamSkill(), 0.0001);
+        assertEquals(sequential.getMaxTeamSkill(), parallel.getMaxTeamSkill(), 0.0001);
+        assertArrayEquals(sequential.getLeaderHistogram(), parallel.getLeaderHistogram());
+        assertEquals(sequential.getPersonalityDistribution(), parallel.getPersonalityDistribution());
+        assertEquals(sequential.getRoleDistribution(), parallel.getRoleDistribution());
+        assertEquals(sequential.getGameDistribution(), parallel.getGameDistribution());
+    }
+
+    @Test
+    public void testMatchesServiceCalculateStatistics() throws InsufficientParticipantsException {
+        List<Participant> participants = new ArrayList<>();
+        String[] games = {"FIFA", "DOTA 2", "Valorant", "CS:GO", "Basketball"};
+        String[] roles = {"Strategist", "Attacker", "Defender", "Supporter", "Coordinator"};
+        for (int i = 0; i < 50; i++) {
+            int score = (i % 3 == 0) ? 95 : ((i % 3 == 1) ? 75 : 55);
+            participants.add(new Participant("P" + String.format("%03d", i), "Participant" + i,
+                    20 + (i % 10), "p" + i + "@test.com", score, games[i % 5], roles[i % 5], 1 + (i % 10)));
+        }
+
+        for (int algorithm = 1; algorithm <= 3; algorithm++) {
+            TeamFormationService service = new TeamFormationService();
+            try {
+                List<Team> formed;
+                if (algorithm == 1) {
+                    formed = service.formBalancedTeams(participants, 5);
+                } else if (algorithm == 2) {
+                    formed = service.formSkillBasedTeams(participants, 5);
+                } else {
+                    formed = service.formRoleBasedTeams(participants, 5);
+                }
+                assertMatchesService(service, formed);
+            } finally {
+                service.shutdown();
+            }
+        }
+
+        // Unequal team sizes: calculateStatistics averages skill over all members (26 / 5 = 5.2),
+        // not over team averages (4.75), and FormationStatistics must do the same
+        Team pair = new Team("T3", 3);
+        pair.addMember(new Participant("P007", "Grace", 23, "grace@test.com",
+                80, "FIFA", "Defender", 2));
+        pair.addMember(new Participant("P008", "Heidi", 24, "heidi@test.com",
+                60, "Chess", "Supporter", 3));
+
+        TeamFormationService service = new TeamFormationService();
+        try {
+            assertMatchesService(service, teams);
+            List<Team> uneven = Arrays.asList(teams.get(0), pair);
+            assertMatchesService(service, uneven);
+            assertEquals(26.0 / 5, FormationStatistics.calculate(uneven).getAvgSkillLevel(), 0.0001);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private void assertMatchesService(TeamFormationService service, List<Team> formed) {
+        Map<String, Object> expected = service.calculateStatistics(formed);
+        FormationStatistics actual = FormationStatistics.calculate(formed);
+
+        assertEquals(((Number) expected.get("totalTeams")).intValue(), actual.getTotalTeams());
+        assertEquals(((Number) expected.get("totalMembers")).intValue(), actual.getTotalMembers());
+        assertEquals(((Number) expected.get("avgTeamSize")).doubleValue(), actual.getAvgTeamSize(), 0.0001);
+        assertEquals(((Number) expected.get("avgSkillLevel")).doubleValue(), actual.getAvgSkillLevel(), 0.0001);
+        assertEquals(((Number) expected.get("avgDiversity")).doubleValue(), actual.getAvgDiversity(), 0.0001);
+        assertEquals(expected.get("personalityDistribution"), actual.getPersonalityDistribution());
+        assertEquals(expected.get("roleDistribution"), actual.getRoleDistribution());
+        assertEquals(expected.get("gameDistribution"), actual.getGameDistribution());
+    }
+}